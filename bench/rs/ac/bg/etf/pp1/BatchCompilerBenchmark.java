@@ -0,0 +1,70 @@
+package rs.ac.bg.etf.pp1;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BatchCompilerBenchmark {
+
+    private static final int copies = 50;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    private Path corpus;
+    private Path output;
+    private List<Path> sources;
+    private MJBatchCompiler batchCompiler;
+
+    /**
+     * Replicates the test sources, so every task has its own output file.
+     * The compilers of the pool are loaded by the warmup iterations.
+     */
+    @Setup
+    public void setup() throws IOException {
+        MJCompiler.configureLogging();
+
+        corpus = Files.createTempDirectory("mj-batch-corpus");
+        output = Files.createTempDirectory("mj-batch-output");
+        List<Path> testSources = MJBatchCompiler.collectSources(Paths.get("test"));
+        for (int i = 0; i < copies; i++) {
+            Path copyDirectory = Files.createDirectories(corpus.resolve("copy" + i));
+            for (Path testSource : testSources) {
+                Files.copy(testSource, copyDirectory.resolve(testSource.getFileName()));
+            }
+        }
+        sources = MJBatchCompiler.collectSources(corpus);
+        batchCompiler = new MJBatchCompiler(threads);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        deleteRecursively(corpus);
+        deleteRecursively(output);
+    }
+
+    @Benchmark
+    public List<MJBatchCompiler.FileResult> compile() throws Exception {
+        return batchCompiler.compile(sources, corpus, output);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package rs.ac.bg.etf.pp1;
+
+import org.openjdk.jmh.annotations.*;
+import rs.ac.bg.etf.pp1.ast.Program;
+import rs.ac.bg.etf.pp1.ast.SwitchExpression;
+import rs.ac.bg.etf.pp1.ast.SyntaxNode;
+import rs.ac.bg.etf.pp1.util.MJProgramGenerator;
+import rs.etf.pp1.mj.runtime.Code;
+
+import java.io.StringReader;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class CodeGeneratorBenchmark {
+
+    // NOTE: the code buffer of the runtime holds 8KB, code past it
+    // is generated but dropped, so larger sizes measure traversal only
+    @Param({"1KB", "64KB", "1MB", "50MB"})
+    public String size;
+
+    @Param("1")
+    public long seed;
+
+    private Program program;
+    private Map<SyntaxNode, Integer> constantValues;
+    private Map<SwitchExpression, SortedSet<Integer>> switchCaseLabels;
+
+    @Setup
+    public void setup() throws Exception {
+        String source = new MJProgramGenerator(seed).generate(MJProgramGenerator.parseSize(size));
+        CompilationSession session = new CompilationSession();
+        program = session.parse(new StringReader(source));
+
+        MJSymbolTable.init();
+        SemanticAnalyzer semanticAnalyzer = new SemanticAnalyzer(session);
+        program.traverseBottomUp(semanticAnalyzer);
+        constantValues = semanticAnalyzer.getConstantValues();
+        switchCaseLabels = semanticAnalyzer.getSwitchCaseLabels();
+        if (session.hasErrors()) {
+            throw new IllegalStateException("Synthetic source has errors: " + session.getErrors());
+        }
+    }
+
+    @Benchmark
+    public int generate() {
+        Code.pc = 0;
+        program.traverseBottomUp(new CodeGenerator(constantValues, switchCaseLabels));
+        return Code.pc;
+    }
+
+}
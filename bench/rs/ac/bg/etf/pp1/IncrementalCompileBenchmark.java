@@ -0,0 +1,57 @@
+package rs.ac.bg.etf.pp1;
+
+import org.openjdk.jmh.annotations.*;
+import rs.ac.bg.etf.pp1.util.MJProgramGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class IncrementalCompileBenchmark {
+
+    // generated code must fit the 8KB code buffer of the MicroJava VM
+    @Param({"1KB", "4KB"})
+    public String size;
+
+    @Param("1")
+    public long seed;
+
+    private MJCompiler compiler;
+    private MethodCodeCache cache;
+    // the source, and the source with one more statement in main
+    private String[] sources;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        compiler = new MJCompiler();
+        cache = new MethodCodeCache();
+        String source = new MJProgramGenerator(seed).generate(MJProgramGenerator.parseSize(size));
+        int mainBodyStart = source.indexOf('{', source.indexOf("void main()"));
+        sources = new String[]{source,
+                source.substring(0, mainBodyStart + 1) + " print(7);" + source.substring(mainBodyStart + 1)};
+        if (!compiler.compile(source, cache).isSuccessful()) {
+            throw new IllegalStateException("Synthetic source has errors");
+        }
+    }
+
+    @Benchmark
+    public CompilationResult full() {
+        next ^= 1;
+        return compiler.compile(sources[next]);
+    }
+
+    /**
+     * Every compilation follows an edit of main, the other methods are reused.
+     */
+    @Benchmark
+    public CompilationResult incremental() {
+        next ^= 1;
+        return compiler.compile(sources[next], cache);
+    }
+
+}
@@ -0,0 +1,98 @@
+package rs.ac.bg.etf.pp1;
+
+import org.openjdk.jmh.annotations.*;
+import rs.ac.bg.etf.pp1.jvm.JvmProgram;
+import rs.ac.bg.etf.pp1.vm.Interpreter;
+import rs.ac.bg.etf.pp1.vm.TrapException;
+import rs.etf.pp1.mj.runtime.Run;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InterpreterBenchmark {
+
+    // test programs which read no input
+    @Param({"loop_invariant", "redundant_loads", "inlining", "hello"})
+    public String program;
+
+    private byte[] objectCode;
+    private JvmProgram jvmProgram;
+    private Path objectFile;
+    private PrintStream standardOutput;
+    private InputStream standardInput;
+
+    @Setup
+    public void setup() throws IOException {
+        String source = new String(Files.readAllBytes(Paths.get("test", program + ".mj")), "UTF-8");
+        CompilationResult result = MJCompiler.getInstance().compile(source);
+        if (!result.isSuccessful()) {
+            throw new IllegalStateException("Test program has errors: " + result.getErrors());
+        }
+        objectCode = result.getObjectCode();
+
+        CompilerOptions options = new CompilerOptions();
+        options.setTarget(CompilationTarget.JVM);
+        jvmProgram = JvmProgram.load(new MJCompiler(options).compile(source).getClassFile());
+
+        // the reference VM only runs object files
+        objectFile = Files.createTempFile("mj-interpreter-benchmark", ".obj");
+        Files.write(objectFile, objectCode);
+
+        standardOutput = System.out;
+        standardInput = System.in;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        System.setIn(new ByteArrayInputStream(new byte[0]));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setOut(standardOutput);
+        System.setIn(standardInput);
+        Files.delete(objectFile);
+    }
+
+    /**
+     * Loads and runs the program, as the reference VM does.
+     */
+    @Benchmark
+    public String interpreter() throws IOException, TrapException {
+        StringWriter output = new StringWriter();
+        Interpreter.load(objectCode).run(new StringReader(""), output);
+        return output.toString();
+    }
+
+    /**
+     * Runs the program compiled to a class file, which is loaded once, so
+     * its methods get compiled by the JIT over the iterations.
+     */
+    @Benchmark
+    public String jvm() throws IOException {
+        StringWriter output = new StringWriter();
+        jvmProgram.run(new StringReader(""), output);
+        return output.toString();
+    }
+
+    /**
+     * Also reads the object file, which the interpreter gets in memory.
+     */
+    @Benchmark
+    public void referenceVm() throws Exception {
+        Run.main(new String[]{objectFile.toString()});
+    }
+
+}
@@ -0,0 +1,42 @@
+package rs.ac.bg.etf.pp1;
+
+import org.openjdk.jmh.annotations.*;
+import rs.ac.bg.etf.pp1.util.MJProgramGenerator;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class LexerBenchmark {
+
+    @Param({"1KB", "64KB", "1MB", "50MB"})
+    public String size;
+
+    @Param("1")
+    public long seed;
+
+    private String source;
+
+    @Setup
+    public void setup() {
+        source = new MJProgramGenerator(seed).generate(MJProgramGenerator.parseSize(size));
+    }
+
+    @Benchmark
+    public int nextToken() throws IOException {
+        Lexer lexer = new Lexer(new StringReader(source), new CompilationSession());
+        int tokenCount = 0;
+        while (lexer.next_token().sym != sym.EOF) {
+            tokenCount++;
+        }
+
+        return tokenCount;
+    }
+
+}
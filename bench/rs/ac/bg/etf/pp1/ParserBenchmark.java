@@ -0,0 +1,43 @@
+package rs.ac.bg.etf.pp1;
+
+import org.openjdk.jmh.annotations.*;
+import rs.ac.bg.etf.pp1.ast.Program;
+import rs.ac.bg.etf.pp1.util.MJProgramGenerator;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ParserBenchmark {
+
+    @Param({"1KB", "64KB", "1MB", "50MB"})
+    public String size;
+
+    @Param("1")
+    public long seed;
+
+    // erroneous programs measure the error recovery of the parser
+    @Param({"VALID", "ERRONEOUS"})
+    public MJProgramGenerator.Mode mode;
+
+    private String source;
+
+    @Setup
+    public void setup() {
+        source = new MJProgramGenerator(seed, mode).generate(MJProgramGenerator.parseSize(size));
+    }
+
+    /**
+     * Lexing and parsing, including building of the syntax tree.
+     */
+    @Benchmark
+    public Program parse() throws Exception {
+        return new CompilationSession().parse(new StringReader(source));
+    }
+
+}
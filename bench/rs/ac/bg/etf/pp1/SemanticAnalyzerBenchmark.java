@@ -0,0 +1,44 @@
+package rs.ac.bg.etf.pp1;
+
+import org.openjdk.jmh.annotations.*;
+import rs.ac.bg.etf.pp1.ast.Program;
+import rs.ac.bg.etf.pp1.util.MJProgramGenerator;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SemanticAnalyzerBenchmark {
+
+    @Param({"1KB", "64KB", "1MB", "50MB"})
+    public String size;
+
+    @Param("1")
+    public long seed;
+
+    private Program program;
+
+    @Setup
+    public void setup() throws Exception {
+        String source = new MJProgramGenerator(seed).generate(MJProgramGenerator.parseSize(size));
+        program = new CompilationSession().parse(new StringReader(source));
+    }
+
+    /**
+     * Symbol table initialization and the analyzer traversal. The analyzer only
+     * overwrites the symbols and types stored in the tree, so the tree is reused.
+     */
+    @Benchmark
+    public SemanticAnalyzer analyze() {
+        MJSymbolTable.init();
+        SemanticAnalyzer semanticAnalyzer = new SemanticAnalyzer(new CompilationSession());
+        program.traverseBottomUp(semanticAnalyzer);
+        return semanticAnalyzer;
+    }
+
+}